@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015 Giuseppe Buzzanca (giuseppebuzzanca@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.pidygb.gestureutilities;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A helper that moves the work of a dismissal off the main thread.
+ * <p/>
+ * <p>The dismissed item is handed to the given {@link Executor}, where {@link Callback#onDismissWork(Object)}
+ * runs. When the work is finished {@link Callback#onDismissCommit(Object)} is called on the main thread to apply
+ * the adapter change, or {@link Callback#onDismissRollback(Object, Throwable)} if the work has failed.</p>
+ * <p/>
+ * <p>Call {@link #release()} when the host is destroyed, so pending results are dropped.</p>
+ * <p/>
+ * <p>Example usage:</p>
+ * <p/>
+ * <pre>
+ * AsyncDismissHelper&lt;Item&gt; asyncDismissHelper = new AsyncDismissHelper&lt;&gt;(executor,
+ *              new AsyncDismissHelper.Callback&lt;Item&gt;() {
+ *                  public void onDismissWork(Item item) throws Exception {
+ *                      // delete from the database
+ *                  }
+ *
+ *                  public void onDismissCommit(Item item) {
+ *                      // remove the item from the adapter
+ *                  }
+ *
+ *                  public void onDismissRollback(Item item, Throwable t) {
+ *                      // show the item again
+ *                  }
+ *              });
+ *
+ * public void onDismissEnd(View view, boolean dismissRight) {
+ *     view.setVisibility(View.INVISIBLE);
+ *     asyncDismissHelper.dismiss(item);
+ * }
+ * </pre>
+ * <p/>
+ *
+ * @param <T> The type of the dismissed items
+ */
+@SuppressWarnings("unused")
+public class AsyncDismissHelper<T> {
+
+    private final Executor mExecutor;
+    private volatile Callback<T> mCallback;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Constructs a new helper.
+     *
+     * @param executor The {@link Executor} where the dismissal work runs
+     * @param callback The callback to trigger
+     */
+    public AsyncDismissHelper(Executor executor, Callback<T> callback) {
+        mExecutor = executor;
+        mCallback = callback;
+    }
+
+    /**
+     * Starts the dismissal of an item. Usually called from
+     * {@link SwipeDismissViewListener.OnSwipeDismissListener#onDismissEnd(android.view.View, boolean)}.
+     *
+     * @param item The dismissed item
+     */
+    public void dismiss(final T item) {
+        if (mCallback == null)
+            return;
+
+        try {
+            mExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Callback<T> callback = mCallback;
+                    if (callback == null)
+                        return;
+
+                    Throwable throwable = null;
+                    try {
+                        callback.onDismissWork(item);
+                    } catch (Throwable t) {
+                        throwable = t;
+                    }
+                    postResult(item, throwable);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            postResult(item, e);
+        }
+    }
+
+    /**
+     * Releases the callback: the dismissals not started yet are skipped and the pending results are dropped.
+     * Call it when the host of the callback is destroyed.
+     */
+    public void release() {
+        mCallback = null;
+        mHandler.removeCallbacksAndMessages(null);
+    }
+
+    private void postResult(final T item, final Throwable throwable) {
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                Callback<T> callback = mCallback;
+                if (callback == null)
+                    return;
+
+                if (throwable == null)
+                    callback.onDismissCommit(item);
+                else
+                    callback.onDismissRollback(item, throwable);
+            }
+        });
+    }
+
+    /**
+     * The callback interface used by {@link AsyncDismissHelper} to inform its client
+     * about the progress of a dismissal.
+     *
+     * @param <T> The type of the dismissed items
+     */
+    public interface Callback<T> {
+        /**
+         * Called on the {@link Executor} thread to do the work of the dismissal.
+         *
+         * @param item The dismissed item
+         * @throws Exception If the work fails, the dismissal is rolled back. An {@link Error} rolls it back too
+         */
+        void onDismissWork(T item) throws Exception;
+
+        /**
+         * Called on the main thread when the work is done, to apply the adapter change.
+         *
+         * @param item The dismissed item
+         */
+        void onDismissCommit(T item);
+
+        /**
+         * Called on the main thread when the work fails or the {@link Executor} rejects it, to restore the item.
+         *
+         * @param item The dismissed item
+         * @param t    The throwable thrown by {@link #onDismissWork(Object)} or by the {@link Executor}
+         */
+        void onDismissRollback(T item, Throwable t);
+    }
+}
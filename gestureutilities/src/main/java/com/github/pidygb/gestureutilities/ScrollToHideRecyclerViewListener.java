@@ -23,6 +23,8 @@ import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
 
+import java.util.ArrayList;
+
 /**
  * A {@link View.OnTouchListener} and a {@link android.support.v7.widget.RecyclerView.OnScrollListener}
  * that callbacks when hide or show something syncronized the {@link android.support.v7.widget.RecyclerView} scrolling.
@@ -30,6 +32,9 @@ import android.view.ViewConfiguration;
  * <p>If a scroll listener and/or a touch listener are already assigned, the caller should still pass scroll and touch changes through to this listener.
  * This will ensure that this scroll listener is paused during list view scrolling.</p>
  * <p/>
+ * <p>More than one view can be synchronized with the same listener registering a {@link Target} for each one
+ * with {@link #addTarget(Target)}: the targets follow every {@link #onScrolled(RecyclerView, int, int)}, flings and
+ * programmatic scrolls included, and the list bounds are computed once and then dispatched to every target.</p>
  * <p/>
  */
 @SuppressWarnings("unused")
@@ -43,6 +48,11 @@ public class ScrollToHideRecyclerViewListener extends RecyclerView.OnScrollListe
     private boolean mDisableHideView;
     private View.OnTouchListener mOnTouchListener;
     private RecyclerView.OnScrollListener mRecyclerScrollListener;
+    private final ArrayList<Target> mTargets = new ArrayList<>();
+
+    public ScrollToHideRecyclerViewListener(Context context, LinearLayoutManager linearLayoutManager) {
+        this(context, linearLayoutManager, null);
+    }
 
     public ScrollToHideRecyclerViewListener(Context context, LinearLayoutManager linearLayoutManager, OnScrollToHideCallback callback) {
         mLinearLayoutManager = linearLayoutManager;
@@ -59,6 +69,27 @@ public class ScrollToHideRecyclerViewListener extends RecyclerView.OnScrollListe
         mRecyclerScrollListener = onScrollListner;
     }
 
+    /**
+     * Registers a new {@link Target} synchronized with the {@link RecyclerView} scrolling.
+     * It can be called from a target callback, the target will be informed from the next scroll.
+     *
+     * @param target The {@link Target} to add
+     */
+    public void addTarget(Target target) {
+        if (!mTargets.contains(target))
+            mTargets.add(target);
+    }
+
+    /**
+     * Unregisters a {@link Target} previously added with {@link #addTarget(Target)}.
+     * If it is called from a target callback, the following target may miss the current scroll.
+     *
+     * @param target The {@link Target} to remove
+     */
+    public void removeTarget(Target target) {
+        mTargets.remove(target);
+    }
+
     @Override
     public boolean onTouch(View v, MotionEvent event) {
         if (mOnTouchListener != null)
@@ -111,6 +142,12 @@ public class ScrollToHideRecyclerViewListener extends RecyclerView.OnScrollListe
     public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
         if (mRecyclerScrollListener != null)
             mRecyclerScrollListener.onScrollStateChanged(recyclerView, newState);
+
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            // Size is read on each iteration, targets may be added or removed by the callbacks
+            for (int i = 0; i < mTargets.size(); i++)
+                mTargets.get(i).settle();
+        }
     }
 
     @Override
@@ -133,10 +170,147 @@ public class ScrollToHideRecyclerViewListener extends RecyclerView.OnScrollListe
                 mDisableHideView = true;
                 if (mOnScrollToHideCallback != null && mOnScrollToHideCallback.canHide())
                     mOnScrollToHideCallback.hide(false);
+                for (int i = 0; i < mTargets.size(); i++)
+                    mTargets.get(i).reset();
             }
         } else {
             mDisableHideView = false;
         }
+
+        // Dispatch the same scroll delta to every target
+        if (!mDisableHideView && dy != 0) {
+            for (int i = 0; i < mTargets.size(); i++)
+                mTargets.get(i).scrollBy(dy);
+        }
+    }
+
+    /**
+     * A view synchronized with the {@link RecyclerView} scrolling, with its own threshold, direction and hide distance.
+     * <p/>
+     * <p>Subclasses can override {@link #onOffsetChanged(float)} to make the view follow the scroll
+     * until it is completely hidden.</p>
+     */
+    public static class Target {
+
+        private final OnScrollToHideCallback mCallback;
+        private final int mThreshold;
+        private final boolean mHideOnScrollDown;
+        private final float mHideDistance;
+
+        // Transient properties
+        private float mScrolled;
+        private float mOffset;
+        private boolean mHidden;
+
+        /**
+         * Constructs a new target that hides while the user reads down the list, as a toolbar, a FAB or a bottom bar.
+         *
+         * @param callback  The callback to inform
+         * @param threshold The scroll distance in pixels, in the same direction, needed to hide or show the view
+         */
+        public Target(OnScrollToHideCallback callback, int threshold) {
+            this(callback, threshold, false, 0);
+        }
+
+        /**
+         * Constructs a new target.
+         *
+         * @param callback         The callback to inform
+         * @param threshold        The scroll distance in pixels, in the same direction, needed to hide or show the view
+         * @param hideOnScrollDown False, the default, if the view hides when the finger moves up and the list reveals
+         *                         its following items, as a toolbar, a FAB or a bottom bar. True if the view hides
+         *                         when the finger moves down and the list goes back to its first items, as a
+         *                         "back to top" button
+         * @param hideDistance     The maximum offset in pixels reported to {@link #onOffsetChanged(float)}
+         */
+        public Target(OnScrollToHideCallback callback, int threshold, boolean hideOnScrollDown, float hideDistance) {
+            mCallback = callback;
+            mThreshold = threshold;
+            mHideOnScrollDown = hideOnScrollDown;
+            mHideDistance = hideDistance;
+        }
+
+        public int getThreshold() {
+            return mThreshold;
+        }
+
+        public boolean isHideOnScrollDown() {
+            return mHideOnScrollDown;
+        }
+
+        public float getHideDistance() {
+            return mHideDistance;
+        }
+
+        /**
+         * @return The current offset, between 0 (shown) and the hide distance (hidden)
+         */
+        public float getOffset() {
+            return mOffset;
+        }
+
+        public boolean isHidden() {
+            return mHidden;
+        }
+
+        /**
+         * Called when the offset of the view changes following the scroll.
+         *
+         * @param offset The new offset, between 0 (shown) and the hide distance (hidden)
+         */
+        protected void onOffsetChanged(float offset) {
+        }
+
+        void scrollBy(int dy) {
+            // A positive dy means the finger moves up, so the list reveals its following items
+            final float delta = mHideOnScrollDown ? -dy : dy;
+
+            // Restart counting when the direction changes
+            if ((delta > 0 && mScrolled < 0) || (delta < 0 && mScrolled > 0))
+                mScrolled = 0;
+            mScrolled += delta;
+
+            if (mHideDistance > 0) {
+                final float offset = Math.max(0, Math.min(mHideDistance, mOffset + delta));
+                if (offset != mOffset) {
+                    mOffset = offset;
+                    onOffsetChanged(offset);
+                }
+            }
+
+            if (!mHidden && mScrolled > mThreshold) {
+                if (mCallback != null && mCallback.canHide()) {
+                    mHidden = true;
+                    mCallback.hide(true);
+                }
+            } else if (mHidden && mScrolled < -mThreshold) {
+                if (mCallback != null && mCallback.canHide()) {
+                    mHidden = false;
+                    mCallback.hide(false);
+                }
+            }
+        }
+
+        void settle() {
+            // Complete a partial offset towards the state decided by the threshold
+            final float offset = mHidden ? mHideDistance : 0;
+            if (mOffset != offset) {
+                mOffset = offset;
+                onOffsetChanged(offset);
+            }
+        }
+
+        void reset() {
+            mScrolled = 0;
+            if (mOffset != 0) {
+                mOffset = 0;
+                onOffsetChanged(0);
+            }
+            if (mHidden && mCallback != null && mCallback.canHide()) {
+                mHidden = false;
+                mCallback.hide(false);
+            }
+        }
     }
 
     /**
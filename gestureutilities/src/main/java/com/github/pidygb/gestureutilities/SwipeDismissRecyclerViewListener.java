@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015 Giuseppe Buzzanca (giuseppebuzzanca@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.pidygb.gestureutilities;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewConfiguration;
+
+import com.github.pidygb.gestureutilities.widget.SwipeDismissViewHolder;
+
+/**
+ * A {@link android.support.v7.widget.RecyclerView.OnItemTouchListener} that makes the
+ * {@link SwipeDismissViewHolder} items of a {@link RecyclerView} dismissable, locking the gesture direction
+ * before any item sees a touch event.
+ * <p/>
+ * <p>The first axis whose movement crosses the touch slop owns the gesture: a vertical movement is left to the
+ * {@link RecyclerView} scrolling, a horizontal one is intercepted and passed to the
+ * {@link SwipeDismissViewHolder#getSwipeDismissViewListener()} of the touched item.
+ * The item views should not pass their touch events to their {@link SwipeDismissViewListener} too.</p>
+ * <p/>
+ * <p>Example usage:</p>
+ * <p/>
+ * <pre>
+ * recyclerView.addOnItemTouchListener(new SwipeDismissRecyclerViewListener(context));
+ * </pre>
+ * <p/>
+ */
+@SuppressWarnings("unused")
+public class SwipeDismissRecyclerViewListener implements RecyclerView.OnItemTouchListener {
+
+    // Not tracking a gesture
+    private static final int LOCK_IDLE = 0;
+    // Tracking a gesture whose direction is still unknown
+    private static final int LOCK_NONE = 1;
+    private static final int LOCK_HORIZONTAL = 2;
+    private static final int LOCK_VERTICAL = 3;
+
+    // Cached ViewConfiguration and system-wide constant values
+    private final int mSlop;
+
+    // Fixed properties
+    private float mMaxSwipeSlope;
+    private boolean mPaused;
+
+    // Transient properties
+    private int mLock = LOCK_IDLE;
+    private MotionEvent mDownEvent;
+    private View mChild;
+    private SwipeDismissViewListener mChildListener;
+
+    /**
+     * Constructs a new direction-locked swipe-to-dismiss listener.
+     *
+     * @param context A context
+     */
+    public SwipeDismissRecyclerViewListener(Context context) {
+        ViewConfiguration vc = ViewConfiguration.get(context);
+        mSlop = vc.getScaledTouchSlop();
+        setMaxSwipeAngle(SwipeDismissViewListener.DEFAULT_MAX_SWIPE_ANGLE);
+    }
+
+    /**
+     * Enables or disables (pauses or resumes) watching for swipe-to-dismiss gestures.
+     *
+     * @param enabled Whether or not to watch for gestures.
+     */
+    public void setEnabled(boolean enabled) {
+        mPaused = !enabled;
+    }
+
+    /**
+     * Sets the maximum angle from the horizontal axis of a movement recognized as a swipe.
+     * It is the same rule of {@link SwipeDismissViewListener#setMaxSwipeAngle(float)}.
+     *
+     * @param degrees The angle in degrees, greater than 0 and lower than 90
+     */
+    public void setMaxSwipeAngle(float degrees) {
+        mMaxSwipeSlope = SwipeDismissViewListener.swipeSlope(degrees);
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(RecyclerView rv, MotionEvent e) {
+        switch (e.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN: {
+                reset();
+                if (mPaused) {
+                    return false;
+                }
+
+                View child = rv.findChildViewUnder(e.getX(), e.getY());
+                if (child == null) {
+                    return false;
+                }
+                RecyclerView.ViewHolder holder = rv.getChildViewHolder(child);
+                if (!(holder instanceof SwipeDismissViewHolder)) {
+                    return false;
+                }
+                SwipeDismissViewHolder swipeDismissViewHolder = (SwipeDismissViewHolder) holder;
+                SwipeDismissViewListener childListener = swipeDismissViewHolder.getSwipeDismissViewListener();
+                // Don't steal a gesture the item listener would ignore
+                if (!childListener.isEnabled() || !swipeDismissViewHolder.canDismiss(child)) {
+                    return false;
+                }
+
+                mChild = child;
+                mChildListener = childListener;
+                mDownEvent = MotionEvent.obtain(e);
+                mLock = LOCK_NONE;
+                break;
+            }
+
+            case MotionEvent.ACTION_MOVE: {
+                if (mLock != LOCK_NONE) {
+                    return false;
+                }
+
+                float absDeltaX = Math.abs(e.getX() - mDownEvent.getX());
+                float absDeltaY = Math.abs(e.getY() - mDownEvent.getY());
+                if (absDeltaX <= mSlop && absDeltaY <= mSlop) {
+                    return false;
+                }
+
+                if (absDeltaY > absDeltaX * mMaxSwipeSlope) {
+                    // Vertical scroll, leave it to the RecyclerView until the next gesture
+                    reset();
+                    mLock = LOCK_VERTICAL;
+                    return false;
+                }
+                if (absDeltaX <= mSlop) {
+                    // The item listener swipes only beyond the slop, wait for it
+                    return false;
+                }
+
+                // Horizontal swipe, replay the gesture to the item listener and intercept it
+                mLock = LOCK_HORIZONTAL;
+                mChildListener.setDirectionLocked(true);
+                mChildListener.onTouch(mChild, mDownEvent);
+                mChildListener.onTouch(mChild, e);
+                return true;
+            }
+
+            case MotionEvent.ACTION_CANCEL:
+            case MotionEvent.ACTION_UP: {
+                reset();
+                break;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onTouchEvent(RecyclerView rv, MotionEvent e) {
+        if (mLock != LOCK_HORIZONTAL) {
+            return;
+        }
+
+        mChildListener.onTouch(mChild, e);
+
+        int action = e.getActionMasked();
+        if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_CANCEL) {
+            reset();
+        }
+    }
+
+    @Override
+    public void onRequestDisallowInterceptTouchEvent(boolean disallowIntercept) {
+        // The item listener itself disallows the intercept once it starts swiping
+        if (disallowIntercept && mLock != LOCK_HORIZONTAL) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        mLock = LOCK_IDLE;
+        mChild = null;
+        if (mChildListener != null) {
+            mChildListener.setDirectionLocked(false);
+            mChildListener = null;
+        }
+        if (mDownEvent != null) {
+            mDownEvent.recycle();
+            mDownEvent = null;
+        }
+    }
+}
@@ -32,6 +32,10 @@ import android.view.ViewConfiguration;
  * <p>If a scroll listener and/or a touch listener are already assigned, the caller should still pass scroll and touch changes through to this listener.
  * This will ensure that this {@link SwipeDismissViewListener} is paused during list view scrolling.</p>
  * <p/>
+ * <p>A movement steeper than the max swipe angle, see {@link #setMaxSwipeAngle(float)}, is left to the parent.
+ * Inside a {@link android.support.v7.widget.RecyclerView} prefer {@link SwipeDismissRecyclerViewListener},
+ * which locks the gesture direction before the items see the touch events.</p>
+ * <p/>
  * <p>Example usage:</p>
  * <p/>
  * <pre>
@@ -59,6 +63,8 @@ import android.view.ViewConfiguration;
  */
 @SuppressWarnings("unused")
 public class SwipeDismissViewListener implements View.OnTouchListener {
+    static final float DEFAULT_MAX_SWIPE_ANGLE = 30;
+
     // Cached ViewConfiguration and system-wide constant values
     private int mSlop;
     private int mMinFlingVelocity;
@@ -67,9 +73,11 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
     // Fixed properties
     private OnSwipeDismissListener mCallbacks;
     private int mViewWidth = 1; // 1 and not 0 to prevent dividing by zero
+    private float mMaxSwipeSlope = swipeSlope(DEFAULT_MAX_SWIPE_ANGLE);
 
     // Transient properties
     private float mX;
+    private float mY;
     private boolean mSwiping;
     private int mSwipingSlop;
     private VelocityTracker mVelocityTracker;
@@ -77,6 +85,14 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
     private boolean mDismissCallbackCalled;
     private long mDuration;
     private boolean mDurationSet;
+    private boolean mDismissAnimating;
+    private boolean mDirectionLocked;
+
+    // Offset persistence
+    private SwipeOffsetStore mOffsetStore;
+    private long mOffsetKey;
+    private boolean mOffsetKeySet;
+    private float mStartOffset;
 
     /**
      * Constructs a new swipe-to-dismiss touch listener for the given view.
@@ -102,6 +118,93 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
         mPaused = !enabled;
     }
 
+    /**
+     * @return Whether or not this listener is watching for gestures.
+     */
+    public boolean isEnabled() {
+        return !mPaused;
+    }
+
+    /**
+     * Sets the maximum angle from the horizontal axis of a movement recognized as a swipe.
+     *
+     * @param degrees The angle in degrees, greater than 0 and lower than 90
+     */
+    public void setMaxSwipeAngle(float degrees) {
+        mMaxSwipeSlope = swipeSlope(degrees);
+    }
+
+    static float swipeSlope(float degrees) {
+        if (degrees <= 0 || degrees >= 90)
+            throw new IllegalArgumentException("degrees must be greater than 0 and lower than 90");
+        return (float) Math.tan(Math.toRadians(degrees));
+    }
+
+    /**
+     * Set by {@link SwipeDismissRecyclerViewListener} when it has already locked the gesture on the horizontal axis,
+     * so the vertical movement must not stop the swipe.
+     */
+    void setDirectionLocked(boolean directionLocked) {
+        mDirectionLocked = directionLocked;
+    }
+
+    /**
+     * Sets the store where the swipe offset of the bound item is saved, so it survives the view rebinding.
+     *
+     * @param offsetStore The {@link SwipeOffsetStore}, usually shared by all the items of an adapter
+     * @see #bindOffset(View, long)
+     */
+    public void setOffsetStore(SwipeOffsetStore offsetStore) {
+        mOffsetStore = offsetStore;
+    }
+
+    /**
+     * Binds the view to an item, restoring its stored swipe offset without animation.
+     * Call it when the view is rebound, e.g. from {@link android.support.v7.widget.RecyclerView.Adapter#onBindViewHolder}.
+     * <p/>
+     * <p>Rebinding the same item keeps the running gesture. Binding a different item ends the gesture of the
+     * previous one and clears its stored offset. If {@link OnSwipeDismissListener#onDismissStart(View, boolean)}
+     * was called, {@link OnSwipeDismissListener#onDismissCancel(View)} is called too, so the dismiss is never
+     * reported for the wrong item.</p>
+     *
+     * @param view The view this listener is attached to
+     * @param key  The stable id or the position of the item
+     */
+    public void bindOffset(View view, long key) {
+        if (mOffsetKeySet && mOffsetKey == key)
+            return;
+
+        // The previous item is not swiped anymore
+        saveOffset(0);
+        boolean cancel = mDismissCallbackCalled || mDismissAnimating;
+
+        mOffsetKey = key;
+        mOffsetKeySet = true;
+
+        // Reset the gesture of the previous item
+        if (mVelocityTracker != null) {
+            mVelocityTracker.recycle();
+            mVelocityTracker = null;
+        }
+        mX = 0;
+        mY = 0;
+        mSwiping = false;
+        mDismissCallbackCalled = false;
+
+        mDismissAnimating = false;
+
+        ViewCompat.animate(view).setListener(null).cancel();
+        if (cancel) {
+            mCallbacks.onDismissCancel(view);
+        }
+        ViewCompat.setTranslationX(view, mOffsetStore != null ? mOffsetStore.get(key) : 0);
+    }
+
+    private void saveOffset(float offset) {
+        if (mOffsetStore != null && mOffsetKeySet)
+            mOffsetStore.put(mOffsetKey, offset);
+    }
+
     @Override
     public boolean onTouch(final View view, MotionEvent motionEvent) {
         if (mViewWidth < 2) {
@@ -116,6 +219,8 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
 
 
                 mX = motionEvent.getRawX();
+                mY = motionEvent.getRawY();
+                mStartOffset = (mOffsetStore != null && mOffsetKeySet) ? mOffsetStore.get(mOffsetKey) : 0;
                 if (mCallbacks.canDismiss(view)) {
                     mVelocityTracker = VelocityTracker.obtain();
                     mVelocityTracker.addMovement(motionEvent);
@@ -131,6 +236,7 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
 
                 if (mSwiping) {
                     // cancel
+                    saveOffset(0);
                     ViewPropertyAnimatorCompat animate = ViewCompat.animate(view);
                     if (mDurationSet) {
                         animate.setDuration(mDuration);
@@ -147,6 +253,7 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
                 mVelocityTracker.recycle();
                 mVelocityTracker = null;
                 mX = 0;
+                mY = 0;
                 mSwiping = false;
                 break;
             }
@@ -157,23 +264,28 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
                 }
 
                 float deltaX = motionEvent.getRawX() - mX;
+                float offsetX = mStartOffset + deltaX;
                 mVelocityTracker.addMovement(motionEvent);
                 mVelocityTracker.computeCurrentVelocity(1000);
                 float velocityX = mVelocityTracker.getXVelocity();
                 float absVelocityX = Math.abs(velocityX);
                 boolean dismiss = false;
                 boolean dismissRight = false;
-                if (Math.abs(deltaX) > mViewWidth / 2 && mSwiping) {
+                if (Math.abs(offsetX) > mViewWidth / 2 && mSwiping) {
                     dismiss = true;
-                    dismissRight = deltaX > 0;
+                    dismissRight = offsetX > 0;
                 } else if (mMinFlingVelocity <= absVelocityX && absVelocityX <= mMaxFlingVelocity && mSwiping) {
                     // dismiss only if flinging in the same direction as dragging
                     dismiss = (velocityX < 0) == (deltaX < 0);
                     dismissRight = mVelocityTracker.getXVelocity() > 0;
                 }
+                if (mSwiping || mStartOffset != 0) {
+                    saveOffset(0);
+                }
                 if (dismiss) {
                     // dismiss
                     final boolean finalDismissRight = dismissRight;
+                    mDismissAnimating = true;
                     ViewPropertyAnimatorCompat animate = ViewCompat.animate(view);
                     if (mDurationSet) {
                         animate.setDuration(mDuration);
@@ -182,7 +294,7 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
                             .setListener(new ViewPropertyAnimatorListenerAdapter() {
                                 @Override
                                 public void onAnimationEnd(View view) {
-
+                                    mDismissAnimating = false;
                                     mCallbacks.onDismissEnd(view, finalDismissRight);
                                     mDismissCallbackCalled = false;
 
@@ -207,10 +319,19 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
                                     mDismissCallbackCalled = false;
                                 }
                             });
+                } else if (mStartOffset != 0) {
+                    // Settle a restored offset, no gesture was started so no callback
+                    ViewPropertyAnimatorCompat animate = ViewCompat.animate(view);
+                    if (mDurationSet) {
+                        animate.setDuration(mDuration);
+                    }
+                    animate.translationX(0)
+                            .setListener(null);
                 }
                 mVelocityTracker.recycle();
                 mVelocityTracker = null;
                 mX = 0;
+                mY = 0;
                 mSwiping = false;
                 break;
             }
@@ -219,8 +340,18 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
                 if (mVelocityTracker == null || mPaused) {
                     return false;
                 }
-                mVelocityTracker.addMovement(motionEvent);
                 float deltaX = motionEvent.getRawX() - mX;
+                float deltaY = motionEvent.getRawY() - mY;
+                if (!mSwiping && !mDirectionLocked && Math.abs(deltaY) > mSlop
+                        && Math.abs(deltaY) > Math.abs(deltaX) * mMaxSwipeSlope) {
+                    // Steeper than the max swipe angle, leave the gesture to the parent scrolling
+                    mVelocityTracker.recycle();
+                    mVelocityTracker = null;
+                    mX = 0;
+                    mY = 0;
+                    return false;
+                }
+                mVelocityTracker.addMovement(motionEvent);
                 if (Math.abs(deltaX) > mSlop) {
                     mSwiping = true;
                     mSwipingSlop = (deltaX > 0 ? mSlop : -mSlop);
@@ -234,7 +365,9 @@ public class SwipeDismissViewListener implements View.OnTouchListener {
                     cancelEvent.recycle();
                 }
                 if (mSwiping) {
-                    ViewCompat.setTranslationX(view, deltaX - mSwipingSlop);
+                    float offsetX = mStartOffset + deltaX - mSwipingSlop;
+                    ViewCompat.setTranslationX(view, offsetX);
+                    saveOffset(offsetX);
                 }
                 if (mSwiping && !mDismissCallbackCalled) {
                     mCallbacks.onDismissStart(view, (deltaX > 0));
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Giuseppe Buzzanca (giuseppebuzzanca@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.pidygb.gestureutilities;
+
+import java.util.Arrays;
+
+/**
+ * A bounded store of the swipe offsets of the items of a list, keyed by stable id or by position.
+ * <p/>
+ * <p>Only the items with a non zero offset are stored, in primitive arrays sorted by key.
+ * When the store is full the least recently updated offset is discarded.</p>
+ * <p/>
+ *
+ * @see SwipeDismissViewListener#setOffsetStore(SwipeOffsetStore)
+ */
+@SuppressWarnings("unused")
+public class SwipeOffsetStore {
+
+    private static final int DEFAULT_MAX_SIZE = 32;
+
+    private final int mMaxSize;
+    private final long[] mKeys;
+    private final float[] mOffsets;
+    private final long[] mStamps;
+    private int mSize;
+    private long mStamp;
+
+    /**
+     * Constructs a new store with the default maximum size.
+     */
+    public SwipeOffsetStore() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a new store.
+     *
+     * @param maxSize The maximum number of offsets kept
+     */
+    public SwipeOffsetStore(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        mMaxSize = maxSize;
+        mKeys = new long[maxSize];
+        mOffsets = new float[maxSize];
+        mStamps = new long[maxSize];
+    }
+
+    /**
+     * @param key The stable id or the position of the item
+     * @return The stored offset, or 0 if there is no offset for the key
+     */
+    public float get(long key) {
+        int index = Arrays.binarySearch(mKeys, 0, mSize, key);
+        return index >= 0 ? mOffsets[index] : 0;
+    }
+
+    /**
+     * Stores the offset of an item. A 0 offset removes the item.
+     *
+     * @param key    The stable id or the position of the item
+     * @param offset The swipe offset
+     */
+    public void put(long key, float offset) {
+        if (offset == 0) {
+            remove(key);
+            return;
+        }
+
+        int index = Arrays.binarySearch(mKeys, 0, mSize, key);
+        if (index >= 0) {
+            mOffsets[index] = offset;
+            mStamps[index] = ++mStamp;
+            return;
+        }
+
+        if (mSize == mMaxSize) {
+            removeAt(eldest());
+            index = Arrays.binarySearch(mKeys, 0, mSize, key);
+        }
+
+        index = ~index;
+        System.arraycopy(mKeys, index, mKeys, index + 1, mSize - index);
+        System.arraycopy(mOffsets, index, mOffsets, index + 1, mSize - index);
+        System.arraycopy(mStamps, index, mStamps, index + 1, mSize - index);
+        mKeys[index] = key;
+        mOffsets[index] = offset;
+        mStamps[index] = ++mStamp;
+        mSize++;
+    }
+
+    /**
+     * Removes the offset of an item.
+     *
+     * @param key The stable id or the position of the item
+     */
+    public void remove(long key) {
+        int index = Arrays.binarySearch(mKeys, 0, mSize, key);
+        if (index >= 0)
+            removeAt(index);
+    }
+
+    /**
+     * Removes all the offsets, e.g. when the adapter data set changes.
+     */
+    public void clear() {
+        mSize = 0;
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    private int eldest() {
+        int eldest = 0;
+        for (int i = 1; i < mSize; i++) {
+            if (mStamps[i] < mStamps[eldest])
+                eldest = i;
+        }
+        return eldest;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(mKeys, index + 1, mKeys, index, mSize - index - 1);
+        System.arraycopy(mOffsets, index + 1, mOffsets, index, mSize - index - 1);
+        System.arraycopy(mStamps, index + 1, mStamps, index, mSize - index - 1);
+        mSize--;
+    }
+}
@@ -5,6 +5,7 @@ import android.view.View;
 import android.widget.FrameLayout;
 
 import com.github.pidygb.gestureutilities.SwipeDismissViewListener;
+import com.github.pidygb.gestureutilities.SwipeOffsetStore;
 
 /**
  * SwipeDismissViewHolder
@@ -13,10 +14,36 @@ import com.github.pidygb.gestureutilities.SwipeDismissViewListener;
 
 public abstract class SwipeDismissViewHolder extends RecyclerView.ViewHolder implements SwipeDismissViewListener.OnSwipeDismissListener {
 
+    private SwipeDismissViewListener mSwipeDismissViewListener;
+
     public SwipeDismissViewHolder(View itemView) {
         super(itemView);
     }
 
+    /**
+     * @return The {@link SwipeDismissViewListener} of the item view, created on first use with this holder as callbacks.
+     * The caller should still pass the item view touch events to it, or add a
+     * {@link com.github.pidygb.gestureutilities.SwipeDismissRecyclerViewListener} to the {@link RecyclerView}.
+     */
+    public SwipeDismissViewListener getSwipeDismissViewListener() {
+        if (mSwipeDismissViewListener == null)
+            mSwipeDismissViewListener = new SwipeDismissViewListener(itemView.getContext(), this);
+        return mSwipeDismissViewListener;
+    }
+
+    /**
+     * Restores the swipe offset of the bound item without animation.
+     * Call it from {@link RecyclerView.Adapter#onBindViewHolder(RecyclerView.ViewHolder, int)}.
+     *
+     * @param offsetStore The {@link SwipeOffsetStore} shared by all the items of the adapter
+     * @param key         The stable id or the position of the item
+     */
+    public void bindSwipeOffset(SwipeOffsetStore offsetStore, long key) {
+        SwipeDismissViewListener swipeDismissViewListener = getSwipeDismissViewListener();
+        swipeDismissViewListener.setOffsetStore(offsetStore);
+        swipeDismissViewListener.bindOffset(itemView, key);
+    }
+
     @Override
     public boolean canDismiss(View view) {
         return true;
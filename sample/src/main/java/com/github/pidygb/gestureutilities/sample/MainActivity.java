@@ -29,6 +29,7 @@ import android.view.View;
 import android.widget.RelativeLayout;
 
 import com.github.pidygb.gestureutilities.ScrollToHideRecyclerViewListener;
+import com.github.pidygb.gestureutilities.SwipeDismissRecyclerViewListener;
 import com.github.pidygb.gestureutilities.SwipeDismissViewListener;
 
 import java.util.ArrayList;
@@ -39,6 +40,7 @@ public class MainActivity extends AppCompatActivity implements ScrollToHideRecyc
 
     private View mButton;
     private boolean mButtonAnimating;
+    private SimpleAdapter mAdapter;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -89,15 +91,22 @@ public class MainActivity extends AppCompatActivity implements ScrollToHideRecyc
         ScrollToHideRecyclerViewListener scrollToHideRecyclerViewListener = new ScrollToHideRecyclerViewListener(this, linearLayoutManager, this);
 
         recyclerView.setLayoutManager(linearLayoutManager);
-        SimpleAdapter mAdapter = new SimpleAdapter(this, new ArrayList<>(Arrays.asList(stars)));
+        mAdapter = new SimpleAdapter(this, new ArrayList<>(Arrays.asList(stars)));
         recyclerView.setAdapter(mAdapter);
         recyclerView.setHasFixedSize(true);
 
         recyclerView.setOnTouchListener(scrollToHideRecyclerViewListener);
         recyclerView.addOnScrollListener(scrollToHideRecyclerViewListener);
+        recyclerView.addOnItemTouchListener(new SwipeDismissRecyclerViewListener(this));
 
     }
 
+    @Override
+    protected void onDestroy() {
+        mAdapter.release();
+        super.onDestroy();
+    }
+
     public void showButton(final boolean show) {
         // Check if the fab button is showed and and a new show is requested
         if (show && mButton.isShown())
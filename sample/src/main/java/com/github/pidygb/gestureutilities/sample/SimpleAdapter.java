@@ -18,17 +18,21 @@ package com.github.pidygb.gestureutilities.sample;
 import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
+import android.os.AsyncTask;
 import android.support.v7.widget.RecyclerView;
 import android.util.Log;
 import android.view.LayoutInflater;
-import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
-import com.github.pidygb.gestureutilities.SwipeDismissViewListener;
+import com.github.pidygb.gestureutilities.AsyncDismissHelper;
+import com.github.pidygb.gestureutilities.SwipeOffsetStore;
+import com.github.pidygb.gestureutilities.widget.SwipeDismissViewHolder;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 
 /**
  * SimpleAdapter
@@ -39,10 +43,38 @@ public class SimpleAdapter extends RecyclerView.Adapter<SimpleAdapter.SimpleView
 
     private final ArrayList<String> mDataSet;
     private final Context mContext;
+    private final AsyncDismissHelper<String> mAsyncDismissHelper;
+    private final SwipeOffsetStore mSwipeOffsetStore = new SwipeOffsetStore();
+    // The stars whose dismissal is in flight, they can't be dismissed again
+    private final HashSet<String> mDismissing = new HashSet<>();
+    private final HashMap<String, Long> mIds = new HashMap<>();
 
     public SimpleAdapter(Context context, ArrayList<String> dataset) {
         mContext = context;
         mDataSet = dataset;
+        for (String star : dataset)
+            mIds.put(star, (long) mIds.size());
+        setHasStableIds(true);
+        mAsyncDismissHelper = new AsyncDismissHelper<>(AsyncTask.SERIAL_EXECUTOR, new AsyncDismissHelper.Callback<String>() {
+            @Override
+            public void onDismissWork(String star) throws Exception {
+                // Here the real work, as a database delete, can be done off the main thread
+            }
+
+            @Override
+            public void onDismissCommit(String star) {
+                mDismissing.remove(star);
+                remove(star);
+            }
+
+            @Override
+            public void onDismissRollback(String star, Throwable t) {
+                mDismissing.remove(star);
+                int position = mDataSet.indexOf(star);
+                if (position != -1)
+                    notifyItemChanged(position);
+            }
+        });
     }
 
     @Override
@@ -53,8 +85,16 @@ public class SimpleAdapter extends RecyclerView.Adapter<SimpleAdapter.SimpleView
 
     @Override
     public void onBindViewHolder(SimpleViewHolder holder, int position) {
-        holder.mTextView.setText(mDataSet.get(position));
-        holder.mTextView.setVisibility(View.VISIBLE);
+        String star = mDataSet.get(position);
+        holder.mTextView.setText(star);
+        holder.mTextView.setVisibility(mDismissing.contains(star) ? View.INVISIBLE : View.VISIBLE);
+        // Keyed by stable id, so a pending dismiss is cancelled if the holder is rebound to another star
+        holder.bindSwipeOffset(mSwipeOffsetStore, holder.getItemId());
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return mIds.get(mDataSet.get(position));
     }
 
     @Override
@@ -62,24 +102,35 @@ public class SimpleAdapter extends RecyclerView.Adapter<SimpleAdapter.SimpleView
         return mDataSet.size();
     }
 
+    /**
+     * Drops the pending dismissals, call it when the activity is destroyed.
+     */
+    public void release() {
+        mAsyncDismissHelper.release();
+    }
+
+    private void dismiss(String star) {
+        if (mDismissing.add(star))
+            mAsyncDismissHelper.dismiss(star);
+    }
+
     private void remove(String star) {
         int position = mDataSet.indexOf(star);
+        if (position == -1)
+            return;
         mDataSet.remove(position);
         notifyItemRemoved(position);
     }
 
-    public static class SimpleViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener, View.OnTouchListener, SwipeDismissViewListener.OnSwipeDismissListener {
+    public static class SimpleViewHolder extends SwipeDismissViewHolder implements View.OnClickListener {
         private final TextView mTextView;
-        private final SwipeDismissViewListener mSwipeDismissViewListener;
         private final SimpleAdapter mAdapter;
 
         SimpleViewHolder(SimpleAdapter adapter, View view) {
             super(view);
             mAdapter = adapter;
             mTextView = (TextView) view;
-            mTextView.setOnTouchListener(this);
             mTextView.setOnClickListener(this);
-            mSwipeDismissViewListener = new SwipeDismissViewListener(view.getContext(), this);
         }
 
         @Override
@@ -88,14 +139,9 @@ public class SimpleAdapter extends RecyclerView.Adapter<SimpleAdapter.SimpleView
             mAdapter.mContext.startActivity(intent);
         }
 
-        @Override
-        public boolean onTouch(View v, MotionEvent event) {
-            return mSwipeDismissViewListener.onTouch(v, event);
-        }
-
         @Override
         public boolean canDismiss(View view) {
-            return true;
+            return !mAdapter.mDismissing.contains(mTextView.getText().toString());
         }
 
         @Override
@@ -111,7 +157,7 @@ public class SimpleAdapter extends RecyclerView.Adapter<SimpleAdapter.SimpleView
         @Override
         public void onDismissEnd(View view, boolean dismissRight) {
             mTextView.setVisibility(View.INVISIBLE);
-            mAdapter.remove(mTextView.getText().toString());
+            mAdapter.dismiss(mTextView.getText().toString());
         }
     }
 }